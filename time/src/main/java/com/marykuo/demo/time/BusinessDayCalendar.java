@@ -0,0 +1,200 @@
+package com.marykuo.demo.time;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 工作日曆，涵蓋 startYear 年初至 endYear 年底
+ * <p>
+ * 建立時依週末規則與假日清單預先計算工作日 bitmap (每日一個 bit) 及每 64 日的前綴計數，
+ * {@link #isBusinessDay}、{@link #businessDaysBetween} 與 {@link #addBusinessDays} 皆為 O(1)。
+ * <p>
+ * 建立後不可變，可於多執行緒間共用。
+ */
+public final class BusinessDayCalendar {
+
+    private static final Set<DayOfWeek> DEFAULT_WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private final int startYear;
+    private final int endYear;
+    private final long startEpochDay;
+    private final int days;
+
+    /**
+     * bit i 表示 startEpochDay + i 是否為工作日
+     */
+    private final long[] bitmap;
+
+    /**
+     * wordPrefix[w] 為 bitmap[0 .. w-1] 的工作日總數
+     */
+    private final int[] wordPrefix;
+
+    /**
+     * 依序排列的工作日 (相對於 startEpochDay 的天數)
+     */
+    private final int[] businessDayOffsets;
+
+    private BusinessDayCalendar(int startYear, int endYear, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        this.startYear = startYear;
+        this.endYear = endYear;
+        this.startEpochDay = LocalDate.of(startYear, 1, 1).toEpochDay();
+        this.days = (int) (LocalDate.of(endYear + 1, 1, 1).toEpochDay() - startEpochDay);
+        this.bitmap = new long[(days + 63) >>> 6];
+
+        // 週末規則
+        final int firstDayOfWeek = LocalDate.of(startYear, 1, 1).getDayOfWeek().getValue() - 1;
+        final boolean[] workingDayOfWeek = new boolean[7];
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            workingDayOfWeek[dayOfWeek.getValue() - 1] = !weekend.contains(dayOfWeek);
+        }
+        for (int offset = 0; offset < days; offset++) {
+            if (workingDayOfWeek[(firstDayOfWeek + offset) % 7]) {
+                bitmap[offset >>> 6] |= 1L << offset;
+            }
+        }
+
+        // 假日清單，超出範圍的日期忽略
+        for (LocalDate holiday : holidays) {
+            final long offset = holiday.toEpochDay() - startEpochDay;
+            if (offset >= 0 && offset < days) {
+                bitmap[(int) (offset >>> 6)] &= ~(1L << offset);
+            }
+        }
+
+        this.wordPrefix = new int[bitmap.length + 1];
+        for (int word = 0; word < bitmap.length; word++) {
+            wordPrefix[word + 1] = wordPrefix[word] + Long.bitCount(bitmap[word]);
+        }
+
+        this.businessDayOffsets = new int[wordPrefix[bitmap.length]];
+        int index = 0;
+        for (int offset = 0; offset < days; offset++) {
+            if (isBusinessDayOffset(offset)) {
+                businessDayOffsets[index++] = offset;
+            }
+        }
+    }
+
+    /**
+     * 週六、週日為週末
+     */
+    public static BusinessDayCalendar of(int startYear, int endYear, Collection<LocalDate> holidays) {
+        return of(startYear, endYear, DEFAULT_WEEKEND, holidays);
+    }
+
+    public static BusinessDayCalendar of(int startYear, int endYear, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        assert startYear <= endYear;
+        assert weekend != null;
+        assert holidays != null;
+        return new BusinessDayCalendar(startYear, endYear, weekend, holidays);
+    }
+
+    /**
+     * 週六、週日為週末
+     *
+     * @param holidays only accept yyyyMMdd format, blank lines are ignored
+     */
+    public static BusinessDayCalendar load(int startYear, int endYear, List<String> holidays) {
+        assert holidays != null;
+        final List<LocalDate> holidayDates = new ArrayList<>(holidays.size());
+        for (String holiday : holidays) {
+            if (holiday != null && !holiday.isBlank()) {
+                holidayDates.add(DateTimeUtils.toLocalDate(holiday.strip()));
+            }
+        }
+        return of(startYear, endYear, DEFAULT_WEEKEND, holidayDates);
+    }
+
+    public int getStartYear() {
+        return startYear;
+    }
+
+    public int getEndYear() {
+        return endYear;
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * @return true if the date is neither a weekend nor a holiday
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        assert date != null;
+        return isBusinessDayOffset(toOffset(date));
+    }
+
+    /**
+     * start (包含) 至 end (不包含) 之間的工作日數，end 早於 start 時為負數
+     * <pre>
+     *     businessDaysBetween("2024-01-05(五)", "2024-01-08(一)") = 1
+     *     businessDaysBetween("2024-01-08(一)", "2024-01-05(五)") = -1
+     * </pre>
+     */
+    public int businessDaysBetween(LocalDate start, LocalDate end) {
+        assert start != null;
+        assert end != null;
+        return rank(toBoundOffset(end)) - rank(toBoundOffset(start));
+    }
+
+    /**
+     * date 之後 (businessDays 為負數時為之前) 的第 businessDays 個工作日，businessDays 為 0 時回傳 date
+     * <pre>
+     *     addBusinessDays("2024-01-05(五)", 1) = "2024-01-08(一)"
+     *     addBusinessDays("2024-01-06(六)", 1) = "2024-01-08(一)"
+     *     addBusinessDays("2024-01-06(六)", -1) = "2024-01-05(五)"
+     * </pre>
+     */
+    public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+        assert date != null;
+        if (businessDays == 0) {
+            return date;
+        }
+        final int offset = toOffset(date);
+        final long index = businessDays > 0
+                ? (long) rank(offset + 1) + businessDays - 1
+                : (long) rank(offset) + businessDays;
+        if (index < 0 || index >= businessDayOffsets.length) {
+            throw new RuntimeException("business day out of calendar range");
+        }
+        return LocalDate.ofEpochDay(startEpochDay + businessDayOffsets[(int) index]);
+    }
+
+    // ==================== Internal ====================
+
+    private boolean isBusinessDayOffset(int offset) {
+        return (bitmap[offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    /**
+     * @return number of business days before the offset, 0 <= offset <= days
+     */
+    private int rank(int offset) {
+        final int word = offset >>> 6;
+        final int bit = offset & 63;
+        if (bit == 0) {
+            return wordPrefix[word];
+        }
+        return wordPrefix[word] + Long.bitCount(bitmap[word] & ((1L << bit) - 1));
+    }
+
+    private int toOffset(LocalDate date) {
+        final long offset = date.toEpochDay() - startEpochDay;
+        if (offset < 0 || offset >= days) {
+            throw new RuntimeException("date out of calendar range");
+        }
+        return (int) offset;
+    }
+
+    /**
+     * 允許 endYear 隔年的 1/1 作為不包含的上界
+     */
+    private int toBoundOffset(LocalDate date) {
+        final long offset = date.toEpochDay() - startEpochDay;
+        if (offset < 0 || offset > days) {
+            throw new RuntimeException("date out of calendar range");
+        }
+        return (int) offset;
+    }
+}
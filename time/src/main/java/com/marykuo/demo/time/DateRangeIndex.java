@@ -0,0 +1,229 @@
+package com.marykuo.demo.time;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 以 epoch day 排序的日期索引，用於大量資料的日期區間查詢
+ * <p>
+ * 日期以 {@code int[]} 儲存並保持排序，row id 存於對應位置的 {@code long[]}，
+ * 區間查詢以二分搜尋找出上下界，複雜度為 O(log n + k)。
+ * <p>
+ * 非 thread-safe，多執行緒共用時需由呼叫端同步。
+ */
+public class DateRangeIndex {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] epochDays;
+    private long[] rowIds;
+    private int size;
+
+    public DateRangeIndex() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DateRangeIndex(int initialCapacity) {
+        assert initialCapacity >= 0;
+        this.epochDays = new int[initialCapacity];
+        this.rowIds = new long[initialCapacity];
+    }
+
+    /**
+     * @return number of indexed dates
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 加入日期與對應的 row id，相同日期依加入順序排列
+     * <p>
+     * 需搬移插入點之後的資料，複雜度為 O(n)，依日期遞增加入時為 O(log n)；大量加入請使用 {@link #addAll}
+     */
+    public void add(LocalDate date, long rowId) {
+        assert date != null;
+        final int epochDay = toEpochDay(date);
+        final int index = upperBound(epochDay);
+        ensureCapacity(size + 1);
+        System.arraycopy(epochDays, index, epochDays, index + 1, size - index);
+        System.arraycopy(rowIds, index, rowIds, index + 1, size - index);
+        epochDays[index] = epochDay;
+        rowIds[index] = rowId;
+        size++;
+    }
+
+    /**
+     * 批次加入日期與對應的 row id，排序一次後與既有資料合併，複雜度為 O(m log m + n)；相同日期依加入順序排列
+     *
+     * @param dates  dates[i] is the date of rowIds[i]
+     * @param rowIds same length as dates
+     */
+    public void addAll(LocalDate[] dates, long[] rowIds) {
+        assert dates != null;
+        assert rowIds != null && rowIds.length == dates.length;
+
+        // 高 32 bits 為 epoch day，低 32 bits 為原始位置，排序後相同日期維持原順序
+        final int count = dates.length;
+        final long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            assert dates[i] != null;
+            keys[i] = ((long) toEpochDay(dates[i]) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        final int[] mergedEpochDays = new int[Math.max(size + count, epochDays.length)];
+        final long[] mergedRowIds = new long[mergedEpochDays.length];
+        int existing = 0;
+        int added = 0;
+        int merged = 0;
+        while (existing < size || added < count) {
+            if (added == count || (existing < size && epochDays[existing] <= (int) (keys[added] >> 32))) {
+                mergedEpochDays[merged] = epochDays[existing];
+                mergedRowIds[merged++] = this.rowIds[existing++];
+            } else {
+                mergedEpochDays[merged] = (int) (keys[added] >> 32);
+                mergedRowIds[merged++] = rowIds[(int) keys[added++]];
+            }
+        }
+        this.epochDays = mergedEpochDays;
+        this.rowIds = mergedRowIds;
+        this.size = merged;
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * 日期在 past 和 future 之間 (包含等於) 的筆數
+     */
+    public int count(LocalDate past, LocalDate future) {
+        assert past != null;
+        assert future != null;
+        if (past.isAfter(future)) {
+            return 0;
+        }
+        return upperBound(toQueryEpochDay(future)) - lowerBound(toQueryEpochDay(past));
+    }
+
+    /**
+     * 日期在 (reference - pastDays) 和 (reference + futureDays) 之間 (包含等於) 的筆數
+     *
+     * @see DateTimeUtils#isBetween(LocalDate, LocalDate, int, int)
+     */
+    public int count(LocalDate reference, int pastDays, int futureDays) {
+        assert reference != null;
+        assert pastDays >= 0;
+        assert futureDays >= 0;
+        return count(reference.minusDays(pastDays), reference.plusDays(futureDays));
+    }
+
+    /**
+     * 日期在 past 和 future 之間 (包含等於) 的 row id，依日期排序
+     */
+    public long[] select(LocalDate past, LocalDate future) {
+        assert past != null;
+        assert future != null;
+        if (past.isAfter(future)) {
+            return new long[0];
+        }
+        final int from = lowerBound(toQueryEpochDay(past));
+        final int to = upperBound(toQueryEpochDay(future));
+        return Arrays.copyOfRange(rowIds, from, to);
+    }
+
+    /**
+     * 日期在 (reference - pastDays) 和 (reference + futureDays) 之間 (包含等於) 的 row id，依日期排序
+     *
+     * @see DateTimeUtils#isBetween(LocalDate, LocalDate, int, int)
+     */
+    public long[] select(LocalDate reference, int pastDays, int futureDays) {
+        assert reference != null;
+        assert pastDays >= 0;
+        assert futureDays >= 0;
+        return select(reference.minusDays(pastDays), reference.plusDays(futureDays));
+    }
+
+    /**
+     * 日期在 past 和 future 之間 (包含等於) 的每月筆數，不含筆數為 0 的月份
+     */
+    public SortedMap<YearMonth, Integer> countByMonth(LocalDate past, LocalDate future) {
+        assert past != null;
+        assert future != null;
+        final SortedMap<YearMonth, Integer> result = new TreeMap<>();
+        if (past.isAfter(future)) {
+            return result;
+        }
+        final int end = upperBound(toQueryEpochDay(future));
+        int from = lowerBound(toQueryEpochDay(past));
+        while (from < end) {
+            final YearMonth month = YearMonth.from(LocalDate.ofEpochDay(epochDays[from]));
+            final int to = Math.min(lowerBound(toQueryEpochDay(month.plusMonths(1).atDay(1))), end);
+            result.put(month, to - from);
+            from = to;
+        }
+        return result;
+    }
+
+    // ==================== Internal ====================
+
+    /**
+     * 儲存的日期必須在 int 範圍內
+     */
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * 查詢上下界可超出 int 範圍 (例如 futureDays 為 Integer.MAX_VALUE)，夾至 int 範圍後不影響二分搜尋結果
+     */
+    private static int toQueryEpochDay(LocalDate date) {
+        final long epochDay = date.toEpochDay();
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, epochDay));
+    }
+
+    /**
+     * @return first index whose epoch day is greater than or equal to the given one
+     */
+    private int lowerBound(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return first index whose epoch day is greater than the given one
+     */
+    private int upperBound(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (epochDays[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= epochDays.length) {
+            return;
+        }
+        final int newCapacity = Math.max(minCapacity, epochDays.length + (epochDays.length >> 1) + 1);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        rowIds = Arrays.copyOf(rowIds, newCapacity);
+    }
+}
@@ -9,6 +9,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 public class DateTimeUtils {
@@ -27,6 +28,13 @@ public class DateTimeUtils {
 
     private static final DateTimeFormatter OUTPUT_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
 
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * formatted strings of the latest rendered second, replaced as a whole on tick (lock-free publication)
+     */
+    private static final AtomicReference<CurrentTimeSnapshot> currentTimeSnapshot = new AtomicReference<>(CurrentTimeSnapshot.EMPTY);
+
     /**
      * @return current system clock
      */
@@ -56,17 +64,50 @@ public class DateTimeUtils {
     }
 
     /**
-     * @return current system date in yyyyMMdd format
+     * @return current system date in yyyyMMdd format, cached within the same second
      */
     public static String getCurrentDate() {
-        return formatToYYYYMMDD(getCurrentLocalDate());
+        return currentTimeSnapshot().date;
     }
 
     /**
-     * @return current system time in HH:mm:ss format
+     * @return current system time in HH:mm:ss format, cached within the same second
      */
     public static String getCurrentTime() {
-        return formatToString(LocalTime.now(current()));
+        return currentTimeSnapshot().time;
+    }
+
+    /**
+     * @return current system date time in yyyy-MM-dd HH:mm:ss format, cached within the same second
+     */
+    public static String getCurrentDateTime() {
+        return currentTimeSnapshot().dateTime;
+    }
+
+    /**
+     * 同一秒內重複呼叫直接回傳已格式化的字串 (不產生任何物件)，跨秒時才經由 {@link #current()} 取得時鐘與時區並重新產生；同一天內只重新產生時間部分
+     * <p>
+     * 命中條件為產生快取的時鐘仍在同一秒，且系統時間也仍在同一秒，因此 {@link #current()} 換成其他時鐘 (例如測試 mock) 時，
+     * 最遲於系統時間的下一秒生效；預設時區變更亦同。
+     * <p>
+     * 較慢的執行緒不會以稍舊 (1 秒內) 的結果覆蓋較新的快取；時鐘倒退超過 1 秒時直接取代，不會每次重新產生直到追上。
+     */
+    private static CurrentTimeSnapshot currentTimeSnapshot() {
+        final CurrentTimeSnapshot snapshot = currentTimeSnapshot.get();
+        if (snapshot.wallSecond == Math.floorDiv(System.currentTimeMillis(), 1000)
+                && snapshot.epochSecond == Math.floorDiv(snapshot.clock.millis(), 1000)) {
+            return snapshot;
+        }
+
+        final Clock clock = current();
+        final long wallSecond = Math.floorDiv(System.currentTimeMillis(), 1000);
+        final long epochSecond = Math.floorDiv(clock.millis(), 1000);
+        final CurrentTimeSnapshot next = CurrentTimeSnapshot.render(clock, wallSecond, epochSecond, snapshot);
+        CurrentTimeSnapshot published = snapshot;
+        while (!published.isFresherThan(next) && !currentTimeSnapshot.compareAndSet(published, next)) {
+            published = currentTimeSnapshot.get();
+        }
+        return next;
     }
 
     // ==================== Transfer ====================
@@ -233,4 +274,73 @@ public class DateTimeUtils {
         assert reference != null;
         return target.isAfter(reference) || target.isEqual(reference);
     }
+
+    // ==================== Cache ====================
+
+    private static final class CurrentTimeSnapshot {
+
+        private static final CurrentTimeSnapshot EMPTY = new CurrentTimeSnapshot(null, Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, "", "", "", "");
+
+        private final Clock clock;
+        private final long wallSecond;
+        private final long epochSecond;
+        private final long epochDay;
+        private final String dashedDate;
+        private final String date;
+        private final String time;
+        private final String dateTime;
+
+        private CurrentTimeSnapshot(Clock clock, long wallSecond, long epochSecond, long epochDay, String dashedDate, String date, String time, String dateTime) {
+            this.clock = clock;
+            this.wallSecond = wallSecond;
+            this.epochSecond = epochSecond;
+            this.epochDay = epochDay;
+            this.dashedDate = dashedDate;
+            this.date = date;
+            this.time = time;
+            this.dateTime = dateTime;
+        }
+
+        private static CurrentTimeSnapshot render(Clock clock, long wallSecond, long epochSecond, CurrentTimeSnapshot previous) {
+            final ZoneOffset offset = clock.getZone().getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+            final long localSecond = epochSecond + offset.getTotalSeconds();
+            final long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            final int secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+            final String dashedDate;
+            final String date;
+            if (previous.epochDay == epochDay) {
+                dashedDate = previous.dashedDate;
+                date = previous.date;
+            } else {
+                final LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+                dashedDate = formatToDashedYYYYMMDD(localDate);
+                date = formatToYYYYMMDD(localDate);
+            }
+
+            final char[] chars = new char[8];
+            writeTwoDigits(chars, 0, secondOfDay / 3600);
+            chars[2] = ':';
+            writeTwoDigits(chars, 3, secondOfDay / 60 % 60);
+            chars[5] = ':';
+            writeTwoDigits(chars, 6, secondOfDay % 60);
+            final String time = new String(chars);
+
+            return new CurrentTimeSnapshot(clock, wallSecond, epochSecond, epochDay, dashedDate, date, time, dashedDate + " " + time);
+        }
+
+        /**
+         * @return true if this snapshot is from the same or a later wall second and at most 1 second ahead of the other
+         */
+        private boolean isFresherThan(CurrentTimeSnapshot other) {
+            return wallSecond >= other.wallSecond
+                    && epochSecond >= other.epochSecond
+                    && epochSecond <= other.epochSecond + 1;
+        }
+
+        private static void writeTwoDigits(char[] chars, int index, int value) {
+            chars[index] = (char) ('0' + value / 10);
+            chars[index + 1] = (char) ('0' + value % 10);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.marykuo.demo.time;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 單調遞增的時間來源，以系統時間 (毫秒) 為基準，同一毫秒內以序號區分
+ * <p>
+ * 每個 tick 為 {@code epochMilli << SEQUENCE_BITS | sequence}，多執行緒下亦保證嚴格遞增：
+ * <ul>
+ *     <li>系統時間前進時，tick 跟隨系統時間，序號歸零</li>
+ *     <li>系統時間不變時，沿用上一個 tick 加一</li>
+ *     <li>同一毫秒內序號 ({@value #SEQUENCE_BITS} bits，每毫秒 4096 個) 用完時進位至下一毫秒，
+ *     tick 最多超前系統時間 {@value #MAX_DRIFT_MILLIS} 毫秒，之後的呼叫會等待系統時間追上</li>
+ *     <li>系統時間倒退 (校時) 不超過 {@value #MAX_WAIT_MILLIS} 毫秒時等待追上；超過時視為校時，不等待，
+ *     沿用上一個 tick 加一，此期間 tick 與系統時間的差距不受限制</li>
+ * </ul>
+ * 因此單一實例的產生速度上限約為每毫秒 4096 個。
+ * <p>
+ * 嚴格遞增需要單一共享計數，同一毫秒內以 {@link AtomicLong#incrementAndGet()} 取號，不需 CAS 重試，
+ * 僅跨毫秒時以 CAS 跳至系統時間；不使用鎖。需要更高產生量時，請以多個實例分散 (例如不同 node id 的 {@link SnowflakeIdGenerator})。
+ */
+public class MonotonicClock {
+
+    public static final int SEQUENCE_BITS = 12;
+
+    public static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * tick 因序號進位而超前系統時間的上限
+     */
+    public static final long MAX_DRIFT_MILLIS = 1;
+
+    /**
+     * tick 超前系統時間在此範圍內時等待，超過則視為系統時間倒退
+     */
+    public static final long MAX_WAIT_MILLIS = 5;
+
+    private final Clock clock;
+    private final AtomicLong lastTick = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * system UTC clock
+     */
+    public MonotonicClock() {
+        this(Clock.systemUTC());
+    }
+
+    public MonotonicClock(Clock clock) {
+        assert clock != null;
+        this.clock = clock;
+    }
+
+    /**
+     * @return next tick, strictly greater than any tick returned before
+     */
+    public long nextTick() {
+        while (true) {
+            final long wallMillis = clock.millis();
+            final long last = lastTick.get();
+            final long ahead = toEpochMilli(last) - wallMillis;
+            if (ahead >= MAX_DRIFT_MILLIS && ahead <= MAX_WAIT_MILLIS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            final long wallTick = wallMillis << SEQUENCE_BITS;
+            if (last >= wallTick) {
+                return lastTick.incrementAndGet();
+            }
+            if (lastTick.compareAndSet(last, wallTick)) {
+                return wallTick;
+            }
+        }
+    }
+
+    /**
+     * 讀取目前時間，不消耗序號；不早於已發出的 tick，但未發出 tick 時可能隨系統時間倒退
+     *
+     * @return milliseconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    public long millis() {
+        return toEpochMilli(Math.max(lastTick.get(), clock.millis() << SEQUENCE_BITS));
+    }
+
+    /**
+     * @return milliseconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    public static long toEpochMilli(long tick) {
+        return tick >> SEQUENCE_BITS;
+    }
+
+    /**
+     * @return sequence within the millisecond
+     */
+    public static int toSequence(long tick) {
+        return (int) (tick & SEQUENCE_MASK);
+    }
+}
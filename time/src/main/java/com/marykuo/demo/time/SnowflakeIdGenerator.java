@@ -0,0 +1,92 @@
+package com.marykuo.demo.time;
+
+import java.time.Instant;
+
+/**
+ * Snowflake 格式的 64-bit ID 產生器
+ * <pre>
+ *     | 1 bit 保留 | 41 bits 毫秒 (自 epoch 起算) | 10 bits node id | 12 bits 序號 |
+ * </pre>
+ * 時間與序號取自 {@link MonotonicClock}，同一 node 產生的 ID 嚴格遞增且不重複。
+ * <p>
+ * 每個實例每毫秒最多產生 4096 個 ID (約每秒 400 萬個)；超過時借用下一毫秒，
+ * ID 中的時間最多超前系統時間 {@value MonotonicClock#MAX_DRIFT_MILLIS} 毫秒，之後的呼叫會等待系統時間追上。
+ * 系統時間倒退超過 {@value MonotonicClock#MAX_WAIT_MILLIS} 毫秒時不等待，ID 中的時間會超前系統時間直到追上。
+ * 需要更高產生量時，請以不同 node id 建立多個實例分散。
+ */
+public class SnowflakeIdGenerator {
+
+    public static final int NODE_ID_BITS = 10;
+
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+    public static final int TIMESTAMP_BITS = 41;
+
+    /**
+     * 2024-01-01T00:00:00Z
+     */
+    public static final long DEFAULT_EPOCH_MILLI = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_ID_SHIFT = MonotonicClock.SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + MonotonicClock.SEQUENCE_BITS;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private final MonotonicClock clock;
+    private final long nodeId;
+    private final long epochMilli;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, new MonotonicClock(), DEFAULT_EPOCH_MILLI);
+    }
+
+    /**
+     * @param nodeId     0 ~ {@link #MAX_NODE_ID}
+     * @param epochMilli custom epoch, must not be later than the clock
+     */
+    public SnowflakeIdGenerator(long nodeId, MonotonicClock clock, long epochMilli) {
+        assert clock != null;
+        // 超出範圍會覆蓋時間欄位而產生重複的 ID，不可只以 assert 檢查
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new RuntimeException("snowflake node id out of range");
+        }
+        if (epochMilli > clock.millis()) {
+            throw new RuntimeException("snowflake epoch is later than the clock");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.epochMilli = epochMilli;
+    }
+
+    /**
+     * @return next id, strictly greater than any id returned before by this generator
+     */
+    public long nextId() {
+        final long tick = clock.nextTick();
+        final long timestamp = MonotonicClock.toEpochMilli(tick) - epochMilli;
+        if (timestamp < 0 || timestamp > MAX_TIMESTAMP) {
+            throw new RuntimeException("snowflake timestamp out of range");
+        }
+        return (timestamp << TIMESTAMP_SHIFT) | (nodeId << NODE_ID_SHIFT) | MonotonicClock.toSequence(tick);
+    }
+
+    /**
+     * @return milliseconds from the epoch of 1970-01-01T00:00:00Z when the id was generated
+     */
+    public long toEpochMilli(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epochMilli;
+    }
+
+    /**
+     * @return node id of the id
+     */
+    public static long toNodeId(long id) {
+        return (id >>> NODE_ID_SHIFT) & MAX_NODE_ID;
+    }
+
+    /**
+     * @return sequence within the millisecond of the id
+     */
+    public static int toSequence(long id) {
+        return (int) (id & MonotonicClock.SEQUENCE_MASK);
+    }
+}
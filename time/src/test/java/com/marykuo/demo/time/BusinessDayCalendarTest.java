@@ -0,0 +1,93 @@
+package com.marykuo.demo.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessDayCalendarTest {
+
+    // 2024-01-01(一) 元旦
+    private final BusinessDayCalendar calendar = BusinessDayCalendar.of(2023, 2024, List.of(LocalDate.of(2024, 1, 1)));
+
+    @Test
+    public void isBusinessDay_Test() {
+        assertThat(calendar.isBusinessDay(LocalDate.of(2023, 12, 29))).isTrue();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2023, 12, 30))).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2023, 12, 31))).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2024, 1, 1))).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2024, 1, 2))).isTrue();
+    }
+
+    @Test
+    public void isBusinessDay_customWeekend_Test() {
+        // given
+        final BusinessDayCalendar fridayOff = BusinessDayCalendar.of(2024, 2024, EnumSet.of(DayOfWeek.FRIDAY), List.of());
+
+        // when & then
+        assertThat(fridayOff.isBusinessDay(LocalDate.of(2024, 1, 5))).isFalse();
+        assertThat(fridayOff.isBusinessDay(LocalDate.of(2024, 1, 6))).isTrue();
+        assertThat(fridayOff.isBusinessDay(LocalDate.of(2024, 1, 7))).isTrue();
+    }
+
+    @Test
+    public void businessDaysBetween_Test() {
+        // when & then
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 2))).isEqualTo(1);
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2024, 1, 2), LocalDate.of(2023, 12, 29))).isEqualTo(-1);
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2))).isZero();
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1))).isEqualTo(261);
+    }
+
+    @Test
+    public void businessDaysBetween_sameAsLoop_Test() {
+        // given
+        final LocalDate start = LocalDate.of(2023, 1, 1);
+        final LocalDate end = LocalDate.of(2025, 1, 1);
+
+        // when & then
+        int expected = 0;
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            assertThat(calendar.businessDaysBetween(start, date)).isEqualTo(expected);
+            if (calendar.isBusinessDay(date)) {
+                expected++;
+            }
+        }
+        assertThat(calendar.businessDaysBetween(start, end)).isEqualTo(expected);
+    }
+
+    @Test
+    public void addBusinessDays_Test() {
+        // when & then
+        assertThat(calendar.addBusinessDays(LocalDate.of(2023, 12, 29), 1)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(calendar.addBusinessDays(LocalDate.of(2023, 12, 30), 1)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(calendar.addBusinessDays(LocalDate.of(2024, 1, 2), -1)).isEqualTo(LocalDate.of(2023, 12, 29));
+        assertThat(calendar.addBusinessDays(LocalDate.of(2023, 12, 30), -1)).isEqualTo(LocalDate.of(2023, 12, 29));
+        assertThat(calendar.addBusinessDays(LocalDate.of(2023, 12, 30), 0)).isEqualTo(LocalDate.of(2023, 12, 30));
+        assertThat(calendar.addBusinessDays(LocalDate.of(2024, 1, 2), 5)).isEqualTo(LocalDate.of(2024, 1, 9));
+    }
+
+    @Test
+    public void addBusinessDays_outOfRange_Test() {
+        assertThatThrownBy(() -> calendar.addBusinessDays(LocalDate.of(2024, 12, 31), 1))
+                .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> calendar.addBusinessDays(LocalDate.of(2022, 12, 30), 1))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void load_Test() {
+        // when
+        final BusinessDayCalendar loaded = BusinessDayCalendar.load(2024, 2024, List.of("20240101", " ", "20240102"));
+
+        // then
+        assertThat(loaded.isBusinessDay(LocalDate.of(2024, 1, 1))).isFalse();
+        assertThat(loaded.isBusinessDay(LocalDate.of(2024, 1, 2))).isFalse();
+        assertThat(loaded.addBusinessDays(LocalDate.of(2024, 1, 1), 1)).isEqualTo(LocalDate.of(2024, 1, 3));
+    }
+}
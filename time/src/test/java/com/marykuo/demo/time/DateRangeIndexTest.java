@@ -0,0 +1,149 @@
+package com.marykuo.demo.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DateRangeIndexTest {
+
+    @Test
+    public void add_Test() {
+        // given
+        final DateRangeIndex index = new DateRangeIndex(1);
+
+        // when
+        index.add(LocalDate.of(2024, 1, 10), 1);
+        index.add(LocalDate.of(2024, 1, 8), 2);
+        index.add(LocalDate.of(2024, 1, 10), 3);
+        index.add(LocalDate.of(2024, 1, 9), 4);
+
+        // then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.select(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))).containsExactly(2, 4, 1, 3);
+    }
+
+    @Test
+    public void addAll_Test() {
+        // given
+        final DateRangeIndex index = new DateRangeIndex();
+        index.add(LocalDate.of(2024, 1, 9), 1);
+        index.add(LocalDate.of(2024, 1, 11), 2);
+
+        // when
+        index.addAll(new LocalDate[]{
+                LocalDate.of(2024, 1, 12),
+                LocalDate.of(2024, 1, 9),
+                LocalDate.of(2024, 1, 8),
+                LocalDate.of(2024, 1, 9)
+        }, new long[]{3, 4, 5, 6});
+
+        // then
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.select(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))).containsExactly(5, 1, 4, 6, 2, 3);
+        assertThat(index.count(LocalDate.of(2024, 1, 9), 0, 0)).isEqualTo(3);
+    }
+
+    @Test
+    public void count_Test() {
+        // given
+        final DateRangeIndex index = newIndex();
+        final LocalDate past = LocalDate.of(2024, 1, 9);
+        final LocalDate future = LocalDate.of(2024, 1, 11);
+
+        // when & then
+        assertThat(index.count(past, future)).isEqualTo(3);
+        assertThat(index.count(LocalDate.of(2024, 1, 13), LocalDate.of(2024, 1, 31))).isZero();
+        assertThat(index.count(future, past)).isZero();
+    }
+
+    @Test
+    public void count_byReference_Test() {
+        // given
+        final DateRangeIndex index = newIndex();
+        final LocalDate reference = LocalDate.of(2024, 1, 10);
+
+        // when & then
+        assertThat(index.count(reference, 0, 0)).isEqualTo(1);
+        assertThat(index.count(reference, 1, 1)).isEqualTo(3);
+        assertThat(index.count(reference, 2, 2)).isEqualTo(5);
+    }
+
+    @Test
+    public void count_sameAsIsBetween_Test() {
+        // given
+        final LocalDate[] dates = {
+                LocalDate.of(1900, 1, 1),
+                LocalDate.of(2024, 1, 8),
+                LocalDate.of(2024, 1, 10),
+                LocalDate.of(2024, 1, 12),
+                LocalDate.of(3000, 12, 31)
+        };
+        final DateRangeIndex index = new DateRangeIndex();
+        for (int i = 0; i < dates.length; i++) {
+            index.add(dates[i], i);
+        }
+        final LocalDate reference = LocalDate.of(2024, 1, 10);
+        final int[] days = {0, 1, 2, 100000, Integer.MAX_VALUE};
+
+        // when & then
+        for (int pastDays : days) {
+            for (int futureDays : days) {
+                int expected = 0;
+                for (LocalDate date : dates) {
+                    if (DateTimeUtils.isBetween(date, reference, pastDays, futureDays)) {
+                        expected++;
+                    }
+                }
+                assertThat(index.count(reference, pastDays, futureDays)).isEqualTo(expected);
+                assertThat(index.select(reference, pastDays, futureDays)).hasSize(expected);
+            }
+        }
+        assertThat(index.count(LocalDate.MIN, LocalDate.MAX)).isEqualTo(dates.length);
+        assertThat(index.countByMonth(LocalDate.MIN, LocalDate.MAX)).hasSize(3);
+    }
+
+    @Test
+    public void select_Test() {
+        // given
+        final DateRangeIndex index = newIndex();
+
+        // when & then
+        assertThat(index.select(LocalDate.of(2024, 1, 9), LocalDate.of(2024, 1, 11))).containsExactly(9, 10, 11);
+        assertThat(index.select(LocalDate.of(2024, 1, 10), 2, 0)).containsExactly(8, 9, 10);
+        assertThat(index.select(LocalDate.of(2024, 1, 13), LocalDate.of(2024, 1, 31))).isEmpty();
+    }
+
+    @Test
+    public void countByMonth_Test() {
+        // given
+        final DateRangeIndex index = new DateRangeIndex();
+        index.add(LocalDate.of(2023, 12, 31), 1);
+        index.add(LocalDate.of(2024, 1, 1), 2);
+        index.add(LocalDate.of(2024, 1, 31), 3);
+        index.add(LocalDate.of(2024, 3, 1), 4);
+
+        // when
+        final Map<YearMonth, Integer> result = index.countByMonth(LocalDate.of(2023, 12, 1), LocalDate.of(2024, 3, 31));
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry(YearMonth.of(2023, 12), 1),
+                Map.entry(YearMonth.of(2024, 1), 2),
+                Map.entry(YearMonth.of(2024, 3), 1));
+    }
+
+    /**
+     * 2024-01-08 ~ 2024-01-12, row id 為日期的 day of month
+     */
+    private DateRangeIndex newIndex() {
+        final DateRangeIndex index = new DateRangeIndex();
+        for (int day = 12; day >= 8; day--) {
+            index.add(LocalDate.of(2024, 1, day), day);
+        }
+        return index;
+    }
+}
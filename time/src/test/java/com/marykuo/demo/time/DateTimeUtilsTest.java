@@ -5,10 +5,13 @@ import org.mockito.MockedStatic;
 
 import java.sql.Timestamp;
 import java.time.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.marykuo.demo.time.DateTimeUtils.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
 
 class DateTimeUtilsTest {
 
@@ -29,6 +32,69 @@ class DateTimeUtilsTest {
         }
     }
 
+    @Test
+    public void getCurrentTime_cachedWithinSameSecond_Test() throws InterruptedException {
+        // given
+        final AtomicLong millis = new AtomicLong(Instant.parse("2024-01-02T15:59:59.100Z").toEpochMilli());
+        final Clock clock = mockClock(millis);
+
+        try (MockedStatic<Clock> mockedStatic = mockStatic(Clock.class)) {
+            mockedStatic.when(Clock::systemDefaultZone).thenReturn(clock);
+            awaitNextSecond();
+
+            // when
+            final String time = getCurrentTime();
+            millis.set(Instant.parse("2024-01-02T15:59:59.900Z").toEpochMilli());
+
+            // then
+            assertThat(time).isEqualTo("23:59:59");
+            assertThat(getCurrentTime()).isSameAs(time);
+            assertThat(getCurrentDateTime()).isEqualTo("2024-01-02 23:59:59");
+
+            millis.set(Instant.parse("2024-01-02T16:00:00Z").toEpochMilli());
+            assertThat(getCurrentDate()).isEqualTo("20240103");
+            assertThat(getCurrentTime()).isEqualTo("00:00:00");
+            assertThat(getCurrentDateTime()).isEqualTo("2024-01-03 00:00:00");
+        } finally {
+            // 快取的時鐘在系統時間的同一秒內仍有效，等到下一秒避免影響其他測試
+            awaitNextSecond();
+        }
+    }
+
+    @Test
+    public void getCurrentTime_clockGoesBackwards_Test() throws InterruptedException {
+        // given
+        final AtomicLong millis = new AtomicLong(Instant.parse("2024-01-02T16:00:00Z").toEpochMilli());
+        final Clock clock = mockClock(millis);
+
+        try (MockedStatic<Clock> mockedStatic = mockStatic(Clock.class)) {
+            mockedStatic.when(Clock::systemDefaultZone).thenReturn(clock);
+            awaitNextSecond();
+            assertThat(getCurrentDateTime()).isEqualTo("2024-01-03 00:00:00");
+
+            // when: 倒退一小時
+            millis.set(Instant.parse("2024-01-02T15:00:00Z").toEpochMilli());
+            final String dateTime = getCurrentDateTime();
+
+            // then
+            assertThat(dateTime).isEqualTo("2024-01-02 23:00:00");
+            assertThat(getCurrentDateTime()).isSameAs(dateTime);
+        } finally {
+            awaitNextSecond();
+        }
+    }
+
+    private static Clock mockClock(AtomicLong millis) {
+        final Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneId.of("Asia/Taipei"));
+        when(clock.millis()).thenAnswer(invocation -> millis.get());
+        return clock;
+    }
+
+    private static void awaitNextSecond() throws InterruptedException {
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 1);
+    }
+
     // ==================== Transfer ====================
 
     @Test
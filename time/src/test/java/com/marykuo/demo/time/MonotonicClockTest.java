@@ -0,0 +1,158 @@
+package com.marykuo.demo.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MonotonicClockTest {
+
+    @Test
+    public void nextTick_followsWallClock_Test() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L, 1000L, 1001L);
+        final MonotonicClock monotonicClock = new MonotonicClock(clock);
+
+        // when
+        final long first = monotonicClock.nextTick();
+        final long second = monotonicClock.nextTick();
+        final long third = monotonicClock.nextTick();
+
+        // then
+        assertThat(MonotonicClock.toEpochMilli(first)).isEqualTo(1000L);
+        assertThat(MonotonicClock.toSequence(first)).isZero();
+        assertThat(MonotonicClock.toEpochMilli(second)).isEqualTo(1000L);
+        assertThat(MonotonicClock.toSequence(second)).isEqualTo(1);
+        assertThat(MonotonicClock.toEpochMilli(third)).isEqualTo(1001L);
+        assertThat(MonotonicClock.toSequence(third)).isZero();
+    }
+
+    @Test
+    public void nextTick_wallClockGoesBackwards_Test() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L, 900L, 1001L);
+        final MonotonicClock monotonicClock = new MonotonicClock(clock);
+
+        // when
+        final long first = monotonicClock.nextTick();
+        final long second = monotonicClock.nextTick();
+        final long third = monotonicClock.nextTick();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(MonotonicClock.toEpochMilli(second)).isEqualTo(1000L);
+        assertThat(MonotonicClock.toEpochMilli(third)).isEqualTo(1001L);
+    }
+
+    @Test
+    public void nextTick_sequenceOverflow_Test() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L);
+        final MonotonicClock monotonicClock = new MonotonicClock(clock);
+
+        // when
+        long tick = 0;
+        for (int i = 0; i <= MonotonicClock.SEQUENCE_MASK + 1; i++) {
+            tick = monotonicClock.nextTick();
+        }
+
+        // then
+        assertThat(MonotonicClock.toEpochMilli(tick)).isEqualTo(1001L);
+        assertThat(MonotonicClock.toSequence(tick)).isZero();
+    }
+
+    @Test
+    public void millis_doesNotConsumeSequence_Test() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L);
+        final MonotonicClock monotonicClock = new MonotonicClock(clock);
+
+        // when
+        final long first = monotonicClock.nextTick();
+        for (int i = 0; i <= MonotonicClock.SEQUENCE_MASK + 1; i++) {
+            assertThat(monotonicClock.millis()).isEqualTo(1000L);
+        }
+        final long second = monotonicClock.nextTick();
+
+        // then
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    public void nextTick_driftBounded_Test() throws Exception {
+        // given: 1000 毫秒的序號用完，進位至 1001
+        final AtomicLong millis = new AtomicLong(1000L);
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> millis.get());
+        final MonotonicClock monotonicClock = new MonotonicClock(clock);
+        for (int i = 0; i <= MonotonicClock.SEQUENCE_MASK + 1; i++) {
+            monotonicClock.nextTick();
+        }
+
+        // when
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> next = executor.submit(monotonicClock::nextTick);
+
+            // then: 等待系統時間追上
+            assertThatThrownBy(() -> next.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            millis.set(1001L);
+            final long tick = next.get(10, TimeUnit.SECONDS);
+            assertThat(MonotonicClock.toEpochMilli(tick)).isEqualTo(1001L);
+            assertThat(MonotonicClock.toSequence(tick)).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void nextTick_concurrent_Test() throws Exception {
+        // given
+        final MonotonicClock monotonicClock = new MonotonicClock();
+        final int threads = 4;
+        final int ticksPerThread = 250000;
+        final List<Callable<long[]>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                final long[] ticks = new long[ticksPerThread];
+                for (int j = 0; j < ticksPerThread; j++) {
+                    ticks[j] = monotonicClock.nextTick();
+                    // 超前系統時間不超過上限
+                    assertThat(MonotonicClock.toEpochMilli(ticks[j]))
+                            .isLessThanOrEqualTo(System.currentTimeMillis() + MonotonicClock.MAX_DRIFT_MILLIS);
+                    if (j > 0) {
+                        assertThat(ticks[j]).isGreaterThan(ticks[j - 1]);
+                    }
+                }
+                return ticks;
+            });
+        }
+
+        // when
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final Set<Long> ticks = new HashSet<>();
+        try {
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                for (long tick : future.get()) {
+                    ticks.add(tick);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(ticks).hasSize(threads * ticksPerThread);
+    }
+}
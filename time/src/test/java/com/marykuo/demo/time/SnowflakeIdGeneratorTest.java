@@ -0,0 +1,75 @@
+package com.marykuo.demo.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    public void nextId_Test() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI + 5, SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI + 5);
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, new MonotonicClock(clock), SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI);
+
+        // when
+        final long first = generator.nextId();
+        final long second = generator.nextId();
+
+        // then
+        assertThat(first).isEqualTo((5L << 22) | (3L << 12));
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(generator.toEpochMilli(second)).isEqualTo(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI + 5);
+        assertThat(SnowflakeIdGenerator.toNodeId(second)).isEqualTo(3);
+        assertThat(SnowflakeIdGenerator.toSequence(second)).isEqualTo(1);
+    }
+
+    @Test
+    public void nextId_increasing_Test() {
+        // given
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID);
+
+        // when & then
+        long last = 0;
+        for (int i = 0; i < 100000; i++) {
+            final long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            assertThat(SnowflakeIdGenerator.toNodeId(id)).isEqualTo(SnowflakeIdGenerator.MAX_NODE_ID);
+            last = id;
+        }
+    }
+
+    @Test
+    public void constructor_nodeIdOutOfRange_Test() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void constructor_epochLaterThanClock_Test() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI - 1);
+
+        // when & then
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(0, new MonotonicClock(clock), SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void nextId_beforeEpoch_Test() {
+        // given: wall clock set back before the epoch after the generator was created
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI, SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI - 1);
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, new MonotonicClock(clock), SnowflakeIdGenerator.DEFAULT_EPOCH_MILLI);
+
+        // when & then
+        assertThatThrownBy(generator::nextId).isInstanceOf(RuntimeException.class);
+    }
+}